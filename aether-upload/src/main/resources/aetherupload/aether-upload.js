@@ -16,6 +16,7 @@
  *     // chunkSize: 2 * 1024 * 1024,  // 可选：覆盖分片大小（后端组需允许）
  *     // base64: true,                // 可选：强制 base64 传输
  *     // concurrency: 3,              // 可选：并发分片数，默认 3
+ *     // hash: function (file) {},    // 可选：返回文件内容哈希（或其 Promise），后端组开启秒传时命中即完成
  *     onProgress: function (percent, info) {},
  *     onSuccess:  function (result) {},
  *     onError:    function (error) {},
@@ -36,6 +37,7 @@
         this.localChunkSize = options.chunkSize || null;
         this.localBase64 = typeof options.base64 === 'boolean' ? options.base64 : null;
         this.concurrency = options.concurrency || 3;
+        this.hash = typeof options.hash === 'function' ? options.hash : null;
         this.headers = options.headers || {};
         // 本地限制（为 null 时使用后端组配置）
         this.allowedExtensions = options.allowedExtensions || null;
@@ -175,7 +177,15 @@
             if (self.localChunkSize && cfg.allowClientChunkSize) {
                 params.chunkSize = wantChunk;
             }
-            return self._request('POST', 'prepare', params);
+            if (!self.hash) {
+                return self._request('POST', 'prepare', params);
+            }
+            return Promise.resolve(self.hash(file)).then(function (hash) {
+                if (hash) {
+                    params.hash = hash;
+                }
+                return self._request('POST', 'prepare', params);
+            });
         }).then(function (data) {
             self.resourceId = data.resourceId;
             self.chunkSize = data.chunkSize;
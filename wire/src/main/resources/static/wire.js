@@ -102,7 +102,10 @@
             // 避免每个按键都触发整段 section 重渲染(会把 mdui 对话框的 DOM 状态冲掉)。
             // 缓存仅在「真正的 action」(wire:click / wire:submit / wire:change / wire:keydown)
             // 发起时作为 params 合并进请求,由服务端 update() 合并进快照后再 fill。
-            modelCache: {}
+            modelCache: {},
+            // 最近一次响应下发的 section 内容指纹,下次请求原样回传,
+            // 服务端据此省略内容未变化的 section(见 WireController.update)。
+            fingerprints: {}
         };
         // 标记该作用域为本组件私有,外层组件绑定事件时会跳过(见 isOwnedByOther)
         if (scope !== document.body && scope.setAttribute) {
@@ -335,8 +338,16 @@
             finalParams = Object.assign({}, comp.modelCache, params || {});
         }
         wireEmit('beforeRequest', comp, action, finalParams);
+        // 只回传本次请求的 section 的指纹
+        var fingerprints = {};
+        if (comp.fingerprints) {
+            for (var s = 0; s < sections.length; s++) {
+                if (comp.fingerprints.hasOwnProperty(sections[s])) fingerprints[sections[s]] = comp.fingerprints[sections[s]];
+            }
+        }
         var body = 'wire_body=' + encodeURIComponent(JSON.stringify({
-            snapshot: comp.snapshot, action: action, params: finalParams || {}, sections: sections
+            snapshot: comp.snapshot, action: action, params: finalParams || {}, sections: sections,
+            fingerprints: fingerprints
         }));
         var headers = { 'Content-Type': 'application/x-www-form-urlencoded', 'X-Wire-Request': 'true' };
         var csrf = getCookie('XSRF-TOKEN');
@@ -373,6 +384,10 @@
                 if (data.sections.hasOwnProperty(name)) replaceSection(comp, name, data.sections[name]);
             }
         }
+        // 整体替换而非合并:未出现在本次响应中的 section 可能已被外层 section 的替换改写,
+        // 其旧指纹不再对应页面内容,丢弃后下次请求会完整返回。
+        // sections 中只含内容变化的部分,未变化的 section 保留现有 DOM。
+        comp.fingerprints = data.fingerprints || {};
         // 重渲染后 DOM 已反映服务端最新状态,据此重建 modelCache,
         // 使缓存始终等于页面实际值,避免把上一次未提交的编辑泄漏到后续 action。
         resyncModelCache(comp);
@@ -390,6 +405,8 @@
             // 整页表单保存成功后走 WireNavigate 的局部 diff,而非 window.location.href 整页跳转)。
             var r = data.effects.redirect;
             if (r) {
+                // 导航会替换页面内容,已持有的指纹失效
+                comp.fingerprints = {};
                 var url = typeof r === 'string' ? r : (r.url || '');
                 if (url && window.WireNavigate && typeof window.WireNavigate.visit === 'function') {
                     window.WireNavigate.visit(url);
@@ -635,7 +652,8 @@
      * @param {string} action   方法名，如 'edit'、'delete'、'search'
      * @param {object} [params] 参数对象
      * @param {string} [updateUrl] 可选覆盖 updateUrl，不传则用组件默认地址
-     * @returns {Promise} 解析为后端响应 JSON（{sections, snapshot, effects}）
+     * @returns {Promise} 解析为后端响应 JSON（{sections, fingerprints, snapshot, effects}；
+     *          sections 只含内容变化的 section，snapshot 未变化时省略）
      *
      * @example
      * // 方案A：位置索引（wire:click 兼容）